@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request and resident memory for the default jar and the
+# AOT + CDS build, with and without lazy initialization.
+#
+# Usage: ./mvnw -Paot package -DskipTests && scripts/startup-benchmark.sh [runs]
+# The tests need a database too; drop -DskipTests when one is reachable.
+# The datasource must be reachable, e.g. via SPRING_DATASOURCE_URL/USERNAME/PASSWORD.
+# Lazy variants set Spring Boot's SPRING_MAIN_LAZY_INITIALIZATION.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${BENCHMARK_PORT:-8089}"
+URL="http://localhost:${PORT}${BENCHMARK_PATH:-/api/departments}"
+TARGET="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR="$(ls "$TARGET"/*.jar | grep -v original | head -n 1)"
+CDS_JAR="$TARGET/cds/$(basename "$JAR")"
+CDS_ARCHIVE="$TARGET/cds/application.jsa"
+
+if [[ ! -f "$CDS_ARCHIVE" ]]; then
+    echo "Missing $CDS_ARCHIVE, build with: ./mvnw -Paot package -DskipTests" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+run_variant() {
+    local name="$1" lazy="$2"
+    shift 2
+    local total_ms=0 total_rss=0
+    for ((i = 1; i <= RUNS; i++)); do
+        local start pid elapsed rss
+        start=$(now_ms)
+        SPRING_MAIN_LAZY_INITIALIZATION="$lazy" java "$@" --server.port="$PORT" > /dev/null 2>&1 &
+        pid=$!
+        until curl -sf -o /dev/null "$URL"; do
+            if ! kill -0 "$pid" 2> /dev/null; then
+                echo "$name: application exited before serving $URL" >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+        elapsed=$(($(now_ms) - start))
+        rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+        kill "$pid"
+        wait "$pid" 2> /dev/null || true
+        total_ms=$((total_ms + elapsed))
+        total_rss=$((total_rss + rss))
+    done
+    printf "%-22s %8d ms %10d KB\n" "$name" $((total_ms / RUNS)) $((total_rss / RUNS))
+}
+
+printf "%-22s %11s %13s\n" "variant" "first-req" "rss"
+run_variant "baseline" false -jar "$JAR"
+run_variant "baseline+lazy" true -jar "$JAR"
+run_variant "aot+cds" false -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true -jar "$CDS_JAR"
+run_variant "aot+cds+lazy" true -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true -jar "$CDS_JAR"
@@ -0,0 +1,38 @@
+package org.example.springdataprojections.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springdataprojections.limiter.AimdLimiter;
+import org.example.springdataprojections.limiter.ConcurrencyLimitInterceptor;
+import org.example.springdataprojections.limiter.ConcurrencyLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+    private final ConcurrencyLimitProperties properties;
+
+    @Bean
+    public AimdLimiter heavyLimiter() {
+        return new AimdLimiter("heavy", properties.getHeavy());
+    }
+
+    @Bean
+    public AimdLimiter lookupLimiter() {
+        return new AimdLimiter("lookup", properties.getLookup());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long retryAfterSeconds = Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(heavyLimiter(), lookupLimiter(), retryAfterSeconds))
+                .addPathPatterns("/api/**");
+    }
+}
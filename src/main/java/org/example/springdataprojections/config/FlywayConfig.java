@@ -0,0 +1,23 @@
+package org.example.springdataprojections.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Lets the CDS training run start without a database. The property is read at runtime rather than
+     * through a condition, because AOT processing fixes conditions such as spring.flyway.enabled at build time.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (environment.getProperty("app.flyway.migrate-on-startup", Boolean.class, true)) {
+                flyway.migrate();
+            }
+        };
+    }
+}
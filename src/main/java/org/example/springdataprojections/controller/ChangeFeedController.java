@@ -0,0 +1,34 @@
+package org.example.springdataprojections.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springdataprojections.model.ChangeEvent;
+import org.example.springdataprojections.service.ChangeFeedService;
+import org.example.springdataprojections.service.ChangeLogService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+    private static final int MAX_LIMIT = 1000;
+
+    private final ChangeLogService changeLogService;
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping
+    public List<ChangeEvent> getChangesSince(@RequestParam(defaultValue = "0") Long since,
+                                             @RequestParam(defaultValue = "500") int limit) {
+        return changeLogService.getChangesSince(since, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long since,
+                                    @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        Long from = lastEventId != null ? lastEventId : since != null ? since : 0L;
+        return changeFeedService.subscribe(from);
+    }
+}
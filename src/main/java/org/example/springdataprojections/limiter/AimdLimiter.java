@@ -0,0 +1,97 @@
+package org.example.springdataprojections.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limiter with an additive-increase/multiplicative-decrease limit.
+ * The limit grows by one after a fast request that completed while at least half of the limit was in use,
+ * and shrinks by the backoff ratio after a request that was overloaded or exceeded the latency threshold.
+ * Only requests that started after the previous decrease can shrink the limit again, so a burst of slow
+ * completions costs one decrease per latency window rather than one per request.
+ */
+public class AimdLimiter implements MeterBinder {
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    public AimdLimiter(String name, ConcurrencyLimitProperties.Limit properties) {
+        this.name = name;
+        this.minLimit = Math.max(1, properties.getMinLimit());
+        this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+        this.backoffRatio = properties.getBackoffRatio();
+        this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+        this.limit = Math.min(maxLimit, Math.max(minLimit, properties.getInitialLimit()));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long startNanos, long endNanos, boolean overloaded) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (overloaded || endNanos - startNanos > latencyThresholdNanos) {
+                if (startNanos - lastDecreaseNanos > 0) {
+                    limit = Math.max(minLimit, (int) (limit * backoffRatio));
+                    lastDecreaseNanos = endNanos;
+                }
+            } else if (inFlightAtCompletion * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("concurrency.limit", this, AimdLimiter::getLimit)
+                .tag("group", name)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("concurrency.limit.in-flight", this, AimdLimiter::getInFlight)
+                .tag("group", name)
+                .description("Requests currently holding a permit")
+                .register(registry);
+        FunctionCounter.builder("concurrency.limit.rejected", this, AimdLimiter::getRejected)
+                .tag("group", name)
+                .description("Requests rejected with 503 because the limit was reached")
+                .register(registry);
+    }
+}
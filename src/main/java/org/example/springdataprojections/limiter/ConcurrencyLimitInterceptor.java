@@ -0,0 +1,89 @@
+package org.example.springdataprojections.limiter;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.sql.SQLTransientException;
+import java.util.Collection;
+
+/**
+ * Admits a request only if the limiter of its group has a free permit, otherwise answers 503 with Retry-After.
+ * Handlers returning a collection use the heavy limiter; everything else uses the lookup limiter.
+ * Only slow completions and overload failures (connection pool or query timeouts, 503/504) shrink the limit;
+ * other errors such as a missing entity say nothing about capacity.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+    private final AimdLimiter heavyLimiter;
+    private final AimdLimiter lookupLimiter;
+    private final long retryAfterSeconds;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        AimdLimiter limiter = limiterFor(handlerMethod);
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return false;
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request, false);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int status = response.getStatus();
+        release(request, isOverload(ex) || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value());
+    }
+
+    private static boolean isOverload(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof AsyncRequestTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AimdLimiter limiterFor(HandlerMethod handlerMethod) {
+        Class<?> returnType = handlerMethod.getReturnType().getParameterType();
+        return Collection.class.isAssignableFrom(returnType) ? heavyLimiter : lookupLimiter;
+    }
+
+    private void release(HttpServletRequest request, boolean overloaded) {
+        AimdLimiter limiter = (AimdLimiter) request.getAttribute(LIMITER_ATTRIBUTE);
+        if (limiter == null) {
+            return;
+        }
+        request.removeAttribute(LIMITER_ATTRIBUTE);
+        long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        limiter.release(start, System.nanoTime(), overloaded);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.springdataprojections.limiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Limit heavy = new Limit(4, 1, 10, 0.9, Duration.ofSeconds(2));
+    private Limit lookup = new Limit(20, 2, 100, 0.9, Duration.ofMillis(200));
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Limit {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private double backoffRatio;
+        private Duration latencyThreshold;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.springdataprojections.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A change log entry as delivered to feed consumers; {@code payload} is null for deletions.
+ */
+public record ChangeEvent(Long sequence, String entityType, Long entityId, String operation, JsonNode payload) {
+}
@@ -0,0 +1,18 @@
+package org.example.springdataprojections.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "change_log_counter")
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeLogCounter {
+    @Id
+    private Integer id;
+    private Long lastSequence;
+}
@@ -0,0 +1,55 @@
+package org.example.springdataprojections.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * The sequence is assigned by {@code ChangeLogService}, so the entry reports itself as new until it has been
+ * persisted or loaded; otherwise {@code save} would merge it and issue a SELECT while the counter lock is held.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "change_log")
+@NoArgsConstructor
+public class ChangeLogEntry implements Persistable<Long> {
+    @Id
+    private Long sequence;
+
+    private String entityType;
+    private Long entityId;
+    private String operation;
+
+    @Column(length = 4000)
+    private String payload;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public ChangeLogEntry(Long sequence, String entityType, Long entityId, String operation, String payload) {
+        this.sequence = sequence;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.payload = payload;
+    }
+
+    @Override
+    public Long getId() {
+        return sequence;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
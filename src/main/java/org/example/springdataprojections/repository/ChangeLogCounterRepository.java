@@ -0,0 +1,13 @@
+package org.example.springdataprojections.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.springdataprojections.model.ChangeLogCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
+
+public interface ChangeLogCounterRepository extends JpaRepository<ChangeLogCounter, Integer> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ChangeLogCounter> findWithLockById(Integer id);
+}
@@ -0,0 +1,11 @@
+package org.example.springdataprojections.repository;
+
+import org.example.springdataprojections.model.ChangeLogEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+    List<ChangeLogEntry> findBySequenceGreaterThanOrderBySequenceAsc(Long sequence, Limit limit);
+}
@@ -0,0 +1,137 @@
+package org.example.springdataprojections.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.example.springdataprojections.model.ChangeEvent;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams the change log to Server-Sent Events subscribers. Every subscriber keeps a cursor into the log, which
+ * acts as its outbound queue: a commit only signals that there is more to read, and a delivery task then sends
+ * the next pages from the cursor. A subscriber has at most one task in flight and the pool has a thread for every
+ * subscriber slot, so a client that stops reading holds only its own thread. Its send fails once the container's
+ * write timeout ({@code server.tomcat.connection-timeout}) passes, and it is dropped and has to reconnect with
+ * Last-Event-ID. Connections beyond {@link #MAX_SUBSCRIBERS} are refused instead of slowing down the others.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+    public static final int PAGE_SIZE = 500;
+    public static final int MAX_SUBSCRIBERS = 100;
+
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
+    private final ChangeLogService changeLogService;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ThreadPoolExecutor deliveryExecutor = newDeliveryExecutor();
+
+    public SseEmitter subscribe(Long sequence) {
+        if (subscribers.size() >= MAX_SUBSCRIBERS) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many change feed subscribers");
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(EMITTER_TIMEOUT_MILLIS), sequence);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        subscribers.forEach(this::schedule);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private static ThreadPoolExecutor newDeliveryExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_SUBSCRIBERS, MAX_SUBSCRIBERS, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("change-feed-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void schedule(Subscriber subscriber) {
+        subscriber.pending.set(true);
+        if (!subscriber.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            deliveryExecutor.execute(() -> deliver(subscriber));
+        } catch (RejectedExecutionException e) {
+            drop(subscriber, e);
+        }
+    }
+
+    private void deliver(Subscriber subscriber) {
+        try {
+            do {
+                subscriber.pending.set(false);
+                List<ChangeEvent> page = changeLogService.getChangesSince(subscriber.cursor, PAGE_SIZE);
+                for (ChangeEvent event : page) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.sequence()))
+                            .name("change")
+                            .data(event));
+                    subscriber.cursor = event.sequence();
+                }
+                if (page.size() == PAGE_SIZE) {
+                    subscriber.pending.set(true);
+                }
+            } while (subscriber.pending.get());
+        } catch (IOException e) {
+            // The container has seen the failed write as well and completes the request itself
+            subscribers.remove(subscriber);
+            return;
+        } catch (RuntimeException e) {
+            drop(subscriber, e);
+            return;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        if (subscriber.pending.get()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        subscribers.remove(subscriber);
+        subscriber.emitter.completeWithError(cause);
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long cursor;
+
+        Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
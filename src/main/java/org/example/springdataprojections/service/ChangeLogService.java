@@ -0,0 +1,66 @@
+package org.example.springdataprojections.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.springdataprojections.model.ChangeEvent;
+import org.example.springdataprojections.model.ChangeLogCounter;
+import org.example.springdataprojections.model.ChangeLogEntry;
+import org.example.springdataprojections.repository.ChangeLogCounterRepository;
+import org.example.springdataprojections.repository.ChangeLogRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Append-only change log for employees and departments. Each entry takes the next sequence from a counter row
+ * that stays locked until the caller's transaction commits, so entries become visible in sequence order and
+ * a consumer that follows the highest sequence it has seen cannot skip one.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeLogService {
+    public static final String CREATE = "CREATE";
+    public static final String UPDATE = "UPDATE";
+    public static final String DELETE = "DELETE";
+
+    private static final int COUNTER_ID = 1;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeLogCounterRepository changeLogCounterRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String operation, String entityType, Long entityId, Object snapshot) {
+        ChangeLogCounter counter = changeLogCounterRepository.findWithLockById(COUNTER_ID)
+                .orElseThrow(() -> new RuntimeException("Change log counter not found"));
+        counter.setLastSequence(counter.getLastSequence() + 1);
+        changeLogCounterRepository.save(counter);
+
+        JsonNode payload = snapshot == null ? null : objectMapper.valueToTree(snapshot);
+        changeLogRepository.save(new ChangeLogEntry(counter.getLastSequence(), entityType, entityId, operation,
+                payload == null ? null : payload.toString()));
+        eventPublisher.publishEvent(new ChangeEvent(counter.getLastSequence(), entityType, entityId, operation, payload));
+    }
+
+    public List<ChangeEvent> getChangesSince(Long sequence, int limit) {
+        return changeLogRepository.findBySequenceGreaterThanOrderBySequenceAsc(sequence, Limit.of(limit)).stream()
+                .map(this::toEvent)
+                .toList();
+    }
+
+    private ChangeEvent toEvent(ChangeLogEntry entry) {
+        try {
+            JsonNode payload = entry.getPayload() == null ? null : objectMapper.readTree(entry.getPayload());
+            return new ChangeEvent(entry.getSequence(), entry.getEntityType(), entry.getEntityId(), entry.getOperation(), payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unreadable change log payload at sequence " + entry.getSequence(), e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.springdataprojections.model.Department;
 import org.example.springdataprojections.repository.DepartmentRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +13,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class DepartmentService {
     private final DepartmentRepository departmentRepository;
+    private final ChangeLogService changeLogService;
 
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
@@ -21,18 +23,30 @@ public class DepartmentService {
         return departmentRepository.findById(Math.toIntExact(id));
     }
 
+    @Transactional
     public Department createDepartment(Department department) {
-        return departmentRepository.save(department);
+        Department created = departmentRepository.save(department);
+        changeLogService.record(ChangeLogService.CREATE, "Department", created.getId(), created);
+        return created;
     }
 
+    @Transactional
     public Department updateDepartment(Long id, Department departmentDetails) {
         Department department = departmentRepository.findById(Math.toIntExact(id)).orElseThrow(() -> new RuntimeException("Department not found"));
         department.setName(departmentDetails.getName());
-        return departmentRepository.save(department);
+        Department updated = departmentRepository.save(department);
+        changeLogService.record(ChangeLogService.UPDATE, "Department", id, updated);
+        return updated;
     }
 
+    @Transactional
     public void deleteDepartment(Long id) {
-        departmentRepository.deleteById(Math.toIntExact(id));
+        int departmentId = Math.toIntExact(id);
+        if (!departmentRepository.existsById(departmentId)) {
+            return;
+        }
+        departmentRepository.deleteById(departmentId);
+        changeLogService.record(ChangeLogService.DELETE, "Department", id, null);
     }
 }
 
@@ -6,6 +6,7 @@ import org.example.springdataprojections.repository.DepartmentRepository;
 import org.example.springdataprojections.repository.EmployeeProjection;
 import org.example.springdataprojections.repository.EmployeeRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +16,7 @@ import java.util.Optional;
 public class EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
+    private final ChangeLogService changeLogService;
 
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
@@ -24,10 +26,14 @@ public class EmployeeService {
         return employeeRepository.findById(id);
     }
 
+    @Transactional
     public Employee createEmployee(Employee employee) {
-        return employeeRepository.save(employee);
+        Employee created = employeeRepository.save(employee);
+        changeLogService.record(ChangeLogService.CREATE, "Employee", created.getId(), created);
+        return created;
     }
 
+    @Transactional
     public Employee updateEmployee(Long id, Employee employeeDetails) {
         Employee employee = employeeRepository.findById(id).orElseThrow(() -> new RuntimeException("Employee not found"));
         employee.setFirstName(employeeDetails.getFirstName());
@@ -35,11 +41,18 @@ public class EmployeeService {
         employee.setPosition(employeeDetails.getPosition());
         employee.setSalary(employeeDetails.getSalary());
         employee.setDepartment(employeeDetails.getDepartment());
-        return employeeRepository.save(employee);
+        Employee updated = employeeRepository.save(employee);
+        changeLogService.record(ChangeLogService.UPDATE, "Employee", id, updated);
+        return updated;
     }
 
+    @Transactional
     public void deleteEmployee(Long id) {
+        if (!employeeRepository.existsById(id)) {
+            return;
+        }
         employeeRepository.deleteById(id);
+        changeLogService.record(ChangeLogService.DELETE, "Employee", id, null);
     }
 
     public List<EmployeeProjection> getEmployeesByLastName(String lastName) {
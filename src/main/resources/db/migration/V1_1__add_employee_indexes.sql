@@ -0,0 +1,6 @@
+-- findByLastName: the leading column serves the lookup, the trailing columns let
+-- the projection be answered from the index before joining department.
+CREATE INDEX idx_employee_last_name ON employee (last_name, first_name, position, departament_id);
+
+-- Every department join and the foreign key's ON DELETE check.
+CREATE INDEX idx_employee_departament_id ON employee (departament_id);
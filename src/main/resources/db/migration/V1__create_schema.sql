@@ -0,0 +1,18 @@
+-- Baseline: the schema Hibernate generated before Flyway took over. Databases that already
+-- have these tables are baselined at version 1 and skip this script.
+
+CREATE TABLE department
+(
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255)
+);
+
+CREATE TABLE employee
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name     VARCHAR(255),
+    last_name      VARCHAR(255),
+    position       VARCHAR(255),
+    salary         VARCHAR(255),
+    departament_id BIGINT REFERENCES department (id)
+);
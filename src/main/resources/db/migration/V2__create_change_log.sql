@@ -0,0 +1,18 @@
+CREATE TABLE change_log
+(
+    sequence    BIGINT        PRIMARY KEY,
+    entity_type VARCHAR(64)   NOT NULL,
+    entity_id   BIGINT        NOT NULL,
+    operation   VARCHAR(16)   NOT NULL,
+    payload     VARCHAR(4000)
+);
+
+-- Single-row counter. Writers lock it to take the next sequence and hold the lock until
+-- commit, so sequences become visible in the order they were assigned.
+CREATE TABLE change_log_counter
+(
+    id            INT    PRIMARY KEY,
+    last_sequence BIGINT NOT NULL
+);
+
+INSERT INTO change_log_counter (id, last_sequence) VALUES (1, 0);
@@ -0,0 +1,157 @@
+package org.example.springdataprojections.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springdataprojections.model.ChangeEvent;
+import org.example.springdataprojections.service.ChangeFeedService;
+import org.example.springdataprojections.service.ChangeLogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ChangeFeedController.class)
+@Import(ChangeFeedService.class)
+class ChangeFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<ChangeEvent> changeLog = new CopyOnWriteArrayList<>();
+    private final List<String> queryThreads = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(changeLogService.getChangesSince(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long since = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            queryThreads.add(Thread.currentThread().getName());
+            return changeLog.stream()
+                    .filter(event -> event.sequence() > since)
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    @Test
+    void getChangesSince_ShouldReturnChanges() throws Exception {
+        ChangeEvent event = new ChangeEvent(8L, "Department", 1L, ChangeLogService.UPDATE,
+                objectMapper.readTree("{\"id\":1,\"name\":\"HR\"}"));
+        when(changeLogService.getChangesSince(7L, 500)).thenReturn(Arrays.asList(event));
+
+        mockMvc.perform(get("/api/changes")
+                        .param("since", "7")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].sequence").value(8))
+                .andExpect(jsonPath("$[0].payload.name").value("HR"));
+
+        verify(changeLogService, times(1)).getChangesSince(7L, 500);
+    }
+
+    @Test
+    void getChangesSince_ShouldCapLimit() throws Exception {
+        when(changeLogService.getChangesSince(0L, 1000)).thenReturn(Arrays.asList());
+
+        mockMvc.perform(get("/api/changes")
+                        .param("limit", "100000")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(changeLogService, times(1)).getChangesSince(0L, 1000);
+    }
+
+    @Test
+    void streamChanges_ShouldReplayWholeBacklogInOrder() throws Exception {
+        appendChanges(ChangeFeedService.PAGE_SIZE * 2 + 200);
+
+        MvcResult result = mockMvc.perform(get("/api/changes/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(sequences(1, changeLog.size()), awaitEventIds(result, changeLog.size()));
+    }
+
+    @Test
+    void streamChanges_WhenLastEventIdGiven_ShouldResumeAfterIt() throws Exception {
+        appendChanges(10);
+
+        MvcResult result = mockMvc.perform(get("/api/changes/stream")
+                        .param("since", "2")
+                        .header("Last-Event-ID", "7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(sequences(8, 10), awaitEventIds(result, 10));
+    }
+
+    @Test
+    void onChange_ShouldDeliverNewEntriesOffTheWriterThread() throws Exception {
+        appendChanges(3);
+        MvcResult result = mockMvc.perform(get("/api/changes/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitEventIds(result, 3);
+
+        appendChanges(1);
+        changeFeedService.onChange(changeLog.get(3));
+
+        assertEquals(sequences(1, 4), awaitEventIds(result, 4));
+        assertFalse(queryThreads.isEmpty());
+        assertTrue(queryThreads.stream().allMatch(name -> name.startsWith("change-feed-")));
+    }
+
+    private void appendChanges(int count) {
+        for (int i = 0; i < count; i++) {
+            long sequence = changeLog.size() + 1;
+            changeLog.add(new ChangeEvent(sequence, "Employee", sequence, ChangeLogService.CREATE, null));
+        }
+    }
+
+    private static List<Long> sequences(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    private static List<Long> awaitEventIds(MvcResult result, long lastSequence) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (true) {
+            String content = result.getResponse().getContentAsString();
+            String completeEvents = content.substring(0, content.lastIndexOf("\n\n") + 1);
+            List<Long> ids = completeEvents.lines()
+                    .filter(line -> line.matches("id:\\d+"))
+                    .map(line -> Long.parseLong(line.substring(3)))
+                    .toList();
+            if (!ids.isEmpty() && ids.get(ids.size() - 1) == lastSequence) {
+                return ids;
+            }
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for event " + lastSequence + ", received " + ids);
+            }
+            Thread.sleep(10);
+        }
+    }
+}
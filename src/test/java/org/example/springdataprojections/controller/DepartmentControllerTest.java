@@ -45,6 +45,18 @@ class DepartmentControllerTest {
         verify(departmentService, times(1)).getAllDepartments();
     }
 
+    @Test
+    void getAllDepartments_WhenCborRequested_ShouldReturnCbor() throws Exception {
+        when(departmentService.getAllDepartments()).thenReturn(Arrays.asList(sampleDepartment));
+
+        mockMvc.perform(get("/api/departments")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+
+        verify(departmentService, times(1)).getAllDepartments();
+    }
+
     @Test
     void getDepartmentById_WhenExists_ShouldReturnDepartment() throws Exception {
         when(departmentService.getDepartmentById(1L)).thenReturn(Optional.of(sampleDepartment));
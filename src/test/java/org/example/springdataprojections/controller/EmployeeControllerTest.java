@@ -1,5 +1,6 @@
 package org.example.springdataprojections.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.springdataprojections.model.Department;
 import org.example.springdataprojections.model.Employee;
@@ -11,10 +12,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import java.util.Arrays;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -49,6 +52,27 @@ class EmployeeControllerTest {
         Mockito.verify(employeeService, Mockito.times(1)).getAllEmployees();
     }
 
+    @Test
+    void getAllEmployees_WhenSmileRequested_ShouldReturnSmile() throws Exception {
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        when(employeeService.getAllEmployees()).thenReturn(Arrays.asList(sampleEmployee));
+
+        mockMvc.perform(get("/api/employees")
+                        .accept(smile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(smile));
+    }
+
+    @Test
+    void getAllEmployees_WhenCborRequested_ShouldReturnCbor() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(Arrays.asList(sampleEmployee));
+
+        mockMvc.perform(get("/api/employees")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+    }
+
     @Test
     void getEmployeeById_WhenExists_ShouldReturnEmployee() throws Exception {
         when(employeeService.getEmployeeById(1L)).thenReturn(Optional.of(sampleEmployee));
@@ -99,7 +123,57 @@ class EmployeeControllerTest {
 
     @Test
     void getEmployeesByLastName_ShouldReturnListOfEmployeeProjections() throws Exception {
-        EmployeeProjection projection = new EmployeeProjection() {
+        when(employeeService.getEmployeesByLastName("Doe")).thenReturn(Arrays.asList(sampleProjection()));
+
+        mockMvc.perform(get("/api/employees/by-lastname")
+                        .param("lastName", "Doe")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].firstName").value("John"))
+                .andExpect(jsonPath("$[0].lastName").value("Doe"));
+
+        Mockito.verify(employeeService, Mockito.times(1)).getEmployeesByLastName("Doe");
+    }
+
+    @Test
+    void getEmployeesByLastName_WhenSmileRequested_ShouldReturnSmileProjections() throws Exception {
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        when(employeeService.getEmployeesByLastName("Doe")).thenReturn(Arrays.asList(sampleProjection()));
+
+        byte[] body = mockMvc.perform(get("/api/employees/by-lastname")
+                        .param("lastName", "Doe")
+                        .accept(smile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertProjections(Jackson2ObjectMapperBuilder.smile().build().readTree(body));
+    }
+
+    @Test
+    void getEmployeesByLastName_WhenCborRequested_ShouldReturnCborProjections() throws Exception {
+        when(employeeService.getEmployeesByLastName("Doe")).thenReturn(Arrays.asList(sampleProjection()));
+
+        byte[] body = mockMvc.perform(get("/api/employees/by-lastname")
+                        .param("lastName", "Doe")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertProjections(Jackson2ObjectMapperBuilder.cbor().build().readTree(body));
+    }
+
+    private static void assertProjections(JsonNode projections) {
+        assertEquals(1, projections.size());
+        assertEquals("John", projections.get(0).get("firstName").asText());
+        assertEquals("Doe", projections.get(0).get("lastName").asText());
+        assertEquals("IT Department", projections.get(0).get("departmentName").asText());
+    }
+
+    private static EmployeeProjection sampleProjection() {
+        return new EmployeeProjection() {
             @Override
             public String getFirstName() {
                 return "John";
@@ -120,17 +194,5 @@ class EmployeeControllerTest {
                 return "IT Department";
             }
         };
-
-        when(employeeService.getEmployeesByLastName("Doe")).thenReturn(Arrays.asList(projection));
-
-        mockMvc.perform(get("/api/employees/by-lastname")
-                        .param("lastName", "Doe")
-                        .accept(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()").value(1))
-                .andExpect(jsonPath("$[0].firstName").value("John"))
-                .andExpect(jsonPath("$[0].lastName").value("Doe"));
-
-        Mockito.verify(employeeService, Mockito.times(1)).getEmployeesByLastName("Doe");
     }
 }
@@ -0,0 +1,97 @@
+package org.example.springdataprojections.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springdataprojections.model.Department;
+import org.example.springdataprojections.model.Employee;
+import org.example.springdataprojections.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compression is applied by the servlet container, so these requests go through a real server rather than MockMvc.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:compression;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class ResponseCompressionTest {
+
+    private static final int EMPLOYEE_COUNT = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final Department sampleDepartment = new Department(1L, "IT Department");
+
+    @Test
+    void getAllEmployees_WhenAboveMinResponseSize_ShouldReturnGzippedJson() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(employees());
+
+        HttpResponse<byte[]> response = get("/api/employees", "application/json");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        JsonNode body = Jackson2ObjectMapperBuilder.json().build().readTree(gunzip(response.body()));
+        assertEquals(EMPLOYEE_COUNT, body.size());
+    }
+
+    @Test
+    void getAllEmployees_WhenAboveMinResponseSize_ShouldReturnGzippedSmile() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(employees());
+
+        HttpResponse<byte[]> response = get("/api/employees", "application/x-jackson-smile");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+        assertEquals(EMPLOYEE_COUNT, smileMapper.readTree(gunzip(response.body())).size());
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept)
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private List<Employee> employees() {
+        List<Employee> employees = new ArrayList<>();
+        for (long i = 1; i <= EMPLOYEE_COUNT; i++) {
+            employees.add(new Employee(i, "First" + i, "Last" + i, "Developer", "1000.00", sampleDepartment));
+        }
+        return employees;
+    }
+
+    private static byte[] gunzip(byte[] body) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
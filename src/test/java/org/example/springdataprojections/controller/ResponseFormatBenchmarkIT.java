@@ -0,0 +1,87 @@
+package org.example.springdataprojections.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springdataprojections.model.Department;
+import org.example.springdataprojections.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the size and serialization time of an employee list for JSON, Smile and CBOR. Each format is
+ * measured raw and gzipped, since responses above {@code server.compression.min-response-size} go out
+ * compressed and the gzipped size is what is actually on the wire. Runs with {@code mvn -Pload-test verify};
+ * timings are printed for reference only.
+ */
+class ResponseFormatBenchmarkIT {
+
+    private static final int EMPLOYEE_COUNT = 5_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        List<Department> departments = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            departments.add(new Department(i, "Department " + i));
+        }
+        employees = new ArrayList<>(EMPLOYEE_COUNT);
+        for (long i = 1; i <= EMPLOYEE_COUNT; i++) {
+            Department department = departments.get((int) (i % departments.size()));
+            employees.add(new Employee(i, "First" + i, "Last" + (i % 500), "Developer", (1000 + i) + ".00", department));
+        }
+    }
+
+    @Test
+    void binaryFormats_ShouldBeSmallerThanJson() throws Exception {
+        System.out.printf("%-6s %12s %12s %18s%n", "format", "raw bytes", "gzip bytes", "us/serialization");
+        Result json = measure("json", Jackson2ObjectMapperBuilder.json().build());
+        Result smile = measure("smile", Jackson2ObjectMapperBuilder.smile().build());
+        Result cbor = measure("cbor", Jackson2ObjectMapperBuilder.cbor().build());
+
+        assertTrue(smile.bytes() < json.bytes());
+        assertTrue(cbor.bytes() < json.bytes());
+        assertTrue(json.gzipBytes() < json.bytes());
+    }
+
+    private Result measure(String format, ObjectMapper mapper) throws Exception {
+        byte[] payload = mapper.writeValueAsBytes(employees);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.writeValueAsBytes(employees);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.writeValueAsBytes(employees);
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+
+        Employee[] decoded = mapper.readValue(payload, Employee[].class);
+        assertEquals(EMPLOYEE_COUNT, decoded.length);
+        assertEquals("First1", decoded[0].getFirstName());
+
+        int gzipBytes = gzip(payload).length;
+        System.out.printf("%-6s %,12d %,12d %,18.1f%n", format, payload.length, gzipBytes, micros);
+        return new Result(payload.length, gzipBytes, micros);
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(payload);
+        }
+        return compressed.toByteArray();
+    }
+
+    private record Result(int bytes, int gzipBytes, double micros) {
+    }
+}
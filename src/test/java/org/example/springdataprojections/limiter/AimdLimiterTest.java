@@ -0,0 +1,107 @@
+package org.example.springdataprojections.limiter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private AimdLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AimdLimiter("test", new ConcurrencyLimitProperties.Limit(4, 2, 6, 0.5, Duration.ofMillis(100)));
+    }
+
+    private void release(long latencyNanos, boolean overloaded) {
+        long start = System.nanoTime();
+        limiter.release(start, start + latencyNanos, overloaded);
+    }
+
+    @Test
+    void tryAcquire_WhenLimitReached_ShouldReject() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(4, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    void release_WhenFastAndUtilized_ShouldIncreaseLimit() {
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        release(FAST, false);
+
+        assertEquals(5, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void release_WhenFastButIdle_ShouldKeepLimit() {
+        limiter.tryAcquire();
+
+        release(FAST, false);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void release_WhenSlow_ShouldBackOff() {
+        limiter.tryAcquire();
+
+        release(SLOW, false);
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void release_WhenOverloaded_ShouldNotGoBelowMinLimit() {
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire();
+            limiter.release(start + i * SLOW, start + i * SLOW + FAST, true);
+        }
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void release_WhenBurstOfSlowRequestsCompletes_ShouldBackOffOnce() {
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        for (int i = 0; i < 4; i++) {
+            limiter.release(start, start + SLOW, false);
+        }
+
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void release_ShouldNotGrowBeyondMaxLimit() {
+        for (int i = 0; i < 10; i++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int j = 0; j < acquired; j++) {
+                release(FAST, false);
+            }
+        }
+
+        assertEquals(6, limiter.getLimit());
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.springdataprojections.limiter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private AimdLimiter heavyLimiter;
+    private AimdLimiter lookupLimiter;
+    private TestController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        heavyLimiter = new AimdLimiter("heavy", new ConcurrencyLimitProperties.Limit(2, 1, 4, 0.5, Duration.ofSeconds(10)));
+        lookupLimiter = new AimdLimiter("lookup", new ConcurrencyLimitProperties.Limit(4, 1, 8, 0.5, Duration.ofSeconds(10)));
+        controller = new TestController();
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new ConcurrencyLimitInterceptor(heavyLimiter, lookupLimiter, 3))
+                .build();
+    }
+
+    @Test
+    void preHandle_WhenLimitReached_ShouldReturn503WithRetryAfter() throws Exception {
+        exhaust(heavyLimiter);
+
+        mockMvc.perform(get("/list"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "3"));
+
+        assertEquals(1, heavyLimiter.getRejected());
+    }
+
+    @Test
+    void preHandle_ShouldPickLimiterByReturnType() throws Exception {
+        exhaust(heavyLimiter);
+
+        mockMvc.perform(get("/list"))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(get("/item"))
+                .andExpect(status().isOk());
+
+        assertEquals(0, lookupLimiter.getRejected());
+        assertEquals(0, lookupLimiter.getInFlight());
+    }
+
+    @Test
+    void afterCompletion_ShouldReleasePermit() throws Exception {
+        mockMvc.perform(get("/list"))
+                .andExpect(status().isOk());
+
+        assertEquals(0, heavyLimiter.getInFlight());
+    }
+
+    @Test
+    void callableRequest_ShouldReleasePermitExactlyOnce() throws Exception {
+        MvcResult result = mockMvc.perform(get("/callable"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(0, lookupLimiter.getInFlight());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        assertEquals(0, lookupLimiter.getInFlight());
+    }
+
+    @Test
+    void sseRequest_ShouldReleasePermitExactlyOnce() throws Exception {
+        MvcResult result = mockMvc.perform(get("/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(0, lookupLimiter.getInFlight());
+
+        controller.emitter.send("done");
+        controller.emitter.complete();
+        mockMvc.perform(asyncDispatch(result));
+
+        assertEquals(0, lookupLimiter.getInFlight());
+    }
+
+    @Test
+    void afterCompletion_WhenNonOverloadServerError_ShouldKeepLimit() {
+        assertThrows(Exception.class, () -> mockMvc.perform(get("/missing")));
+
+        assertEquals(4, lookupLimiter.getLimit());
+        assertEquals(0, lookupLimiter.getInFlight());
+    }
+
+    @Test
+    void afterCompletion_WhenConnectionPoolExhausted_ShouldBackOff() {
+        assertThrows(Exception.class, () -> mockMvc.perform(get("/overloaded")));
+
+        assertEquals(2, lookupLimiter.getLimit());
+        assertEquals(0, lookupLimiter.getInFlight());
+    }
+
+    private static void exhaust(AimdLimiter limiter) {
+        for (int i = limiter.getLimit(); i > 0; i--) {
+            assertTrue(limiter.tryAcquire());
+        }
+    }
+
+    @RestController
+    static class TestController {
+        SseEmitter emitter;
+
+        @GetMapping("/list")
+        List<String> list() {
+            return List.of("a", "b");
+        }
+
+        @GetMapping("/item")
+        String item() {
+            return "a";
+        }
+
+        @GetMapping("/callable")
+        Callable<String> callable() {
+            return () -> "a";
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream() {
+            emitter = new SseEmitter();
+            return emitter;
+        }
+
+        @GetMapping("/missing")
+        String missing() {
+            throw new RuntimeException("Employee not found");
+        }
+
+        @GetMapping("/overloaded")
+        String overloaded() {
+            throw new CannotCreateTransactionException("Connection is not available, request timed out");
+        }
+    }
+}
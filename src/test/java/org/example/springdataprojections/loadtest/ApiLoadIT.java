@@ -0,0 +1,271 @@
+package org.example.springdataprojections.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives mixed read/write HTTP traffic against the full application on an embedded H2 database and fails
+ * when an endpoint misses its p99 or rejection-ratio SLO, or the overall throughput misses its floor.
+ * Run with {@code mvn -Pload-test verify}; the {@code loadtest.*} properties in the profile tune it.
+ * <p>
+ * Workers send on a fixed schedule ({@code loadtest.target-rate} requests per second in total) and measure
+ * latency from the intended send time, so a stalled server is charged for the requests it delayed rather
+ * than hiding them (coordinated omission). With a target rate of 0 the generator runs closed-loop and
+ * measures from the actual send time, which under-reports tail latency once the server saturates.
+ * <p>
+ * The profile defaults (600 req/s, 100 ms p99, 500 req/s floor) are production targets and assume a
+ * multi-core machine. The SLOs have to be calibrated per environment: on a smaller machine, lower
+ * {@code loadtest.target-rate} and {@code loadtest.slo.min-throughput} together and relax the p99 limits, e.g.
+ * {@code mvn -Pload-test verify -Dloadtest.target-rate=40 -Dloadtest.slo.min-throughput=20
+ * -Dloadtest.slo.p99-ms=2000 -Dloadtest.slo.list-p99-ms=10000}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class ApiLoadIT {
+
+    private static final int DEPARTMENT_COUNT = 200;
+    private static final int EMPLOYEE_COUNT = 50_000;
+    private static final int LAST_NAME_COUNT = 5_000;
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final long P99_SLO_MS = Long.getLong("loadtest.slo.p99-ms", 100);
+    private static final long LIST_P99_SLO_MS = Long.getLong("loadtest.slo.list-p99-ms", 2_000);
+    private static final double MIN_THROUGHPUT = Double.parseDouble(System.getProperty("loadtest.slo.min-throughput", "500"));
+    private static final double MAX_REJECTION_RATIO = Double.parseDouble(System.getProperty("loadtest.slo.max-rejection-ratio", "0.01"));
+    private static final double TARGET_RATE = Double.parseDouble(System.getProperty("loadtest.target-rate", "600"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private long minEmployeeId;
+    private long minDepartmentId;
+
+    @BeforeEach
+    void seed() {
+        if (jdbcTemplate.queryForObject("SELECT count(*) FROM employee", Long.class) == 0) {
+            insertSeedData();
+        }
+        minDepartmentId = jdbcTemplate.queryForObject("SELECT min(id) FROM department", Long.class);
+        minEmployeeId = jdbcTemplate.queryForObject("SELECT min(id) FROM employee", Long.class);
+    }
+
+    private void insertSeedData() {
+        List<Object[]> departments = new ArrayList<>(DEPARTMENT_COUNT);
+        for (int i = 1; i <= DEPARTMENT_COUNT; i++) {
+            departments.add(new Object[]{"Department " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO department (name) VALUES (?)", departments);
+        long firstDepartmentId = jdbcTemplate.queryForObject("SELECT min(id) FROM department", Long.class);
+
+        List<Object[]> employees = new ArrayList<>(EMPLOYEE_COUNT);
+        for (int i = 1; i <= EMPLOYEE_COUNT; i++) {
+            employees.add(new Object[]{"First" + i, "Last" + (i % LAST_NAME_COUNT), "Developer",
+                    (1000 + i % 500) + ".00", firstDepartmentId + i % DEPARTMENT_COUNT});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employee (first_name, last_name, position, salary, departament_id) "
+                + "VALUES (?, ?, ?, ?, ?)", employees);
+    }
+
+    @Test
+    void mixedTraffic_ShouldMeetSlos() throws Exception {
+        List<Endpoint> endpoints = List.of(
+                new Endpoint("GET /api/employees/{id}", 50, P99_SLO_MS,
+                        random -> get("/api/employees/" + randomEmployeeId(random))),
+                new Endpoint("GET /api/employees/by-lastname", 20, P99_SLO_MS,
+                        random -> get("/api/employees/by-lastname?lastName=Last" + random.nextInt(LAST_NAME_COUNT))),
+                new Endpoint("GET /api/departments/{id}", 10, P99_SLO_MS,
+                        random -> get("/api/departments/" + randomDepartmentId(random))),
+                new Endpoint("GET /api/departments", 10, P99_SLO_MS,
+                        random -> get("/api/departments")),
+                new Endpoint("POST /api/employees", 5, P99_SLO_MS,
+                        random -> send("POST", "/api/employees", employeeJson(random))),
+                new Endpoint("PUT /api/employees/{id}", 4, P99_SLO_MS,
+                        random -> send("PUT", "/api/employees/" + randomEmployeeId(random), employeeJson(random))),
+                new Endpoint("GET /api/employees", 1, LIST_P99_SLO_MS,
+                        random -> get("/api/employees")));
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+
+        runFor(endpoints, totalWeight, WARMUP_SECONDS);
+        endpoints.forEach(Endpoint::reset);
+        double elapsedSeconds = runFor(endpoints, totalWeight, DURATION_SECONDS);
+
+        long completed = 0;
+        Map<String, String> violations = new LinkedHashMap<>();
+        System.out.printf("%-32s %9s %9s %9s %9s %9s %8s%n", "endpoint", "count", "p50 ms", "p99 ms", "max ms", "rejected", "errors");
+        for (Endpoint endpoint : endpoints) {
+            Histogram histogram = endpoint.latencies();
+            double p99 = histogram.getValueAtPercentile(99) / 1_000.0;
+            long rejected = endpoint.rejected().sum();
+            long attempts = histogram.getTotalCount() + rejected + endpoint.errors().sum();
+            double rejectionRatio = attempts == 0 ? 0 : (double) rejected / attempts;
+            System.out.printf("%-32s %9d %9.1f %9.1f %9.1f %9d %8d%n", endpoint.name(), histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50) / 1_000.0, p99, histogram.getMaxValue() / 1_000.0,
+                    rejected, endpoint.errors().sum());
+            completed += histogram.getTotalCount();
+            if (p99 > endpoint.p99SloMs()) {
+                violations.put(endpoint.name(), "p99 " + p99 + " ms > " + endpoint.p99SloMs() + " ms");
+            }
+            if (rejectionRatio > MAX_REJECTION_RATIO) {
+                violations.put(endpoint.name() + " rejections", "ratio " + rejectionRatio + " > " + MAX_REJECTION_RATIO);
+            }
+            if (endpoint.errors().sum() > 0) {
+                violations.put(endpoint.name() + " errors", endpoint.errors().sum() + " unexpected responses");
+            }
+        }
+        double throughput = completed / elapsedSeconds;
+        System.out.printf("throughput: %.1f req/s at concurrency %d, target rate %.0f req/s%n", throughput, CONCURRENCY, TARGET_RATE);
+        if (throughput < MIN_THROUGHPUT) {
+            violations.put("throughput", throughput + " req/s < " + MIN_THROUGHPUT + " req/s");
+        }
+
+        assertTrue(violations.isEmpty(), () -> "SLO violations: " + violations);
+    }
+
+    private double runFor(List<Endpoint> endpoints, int totalWeight, int seconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        long intervalNanos = TARGET_RATE > 0 ? (long) (CONCURRENCY * 1_000_000_000L / TARGET_RATE) : 0;
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            long offset = intervalNanos * i / CONCURRENCY;
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long intended = System.nanoTime() + offset;
+                // A paced worker that fell behind keeps going past the deadline until every slot that was due
+                // before it has been sent, so a stall near the end is charged in full rather than dropped.
+                while (intended < deadline) {
+                    if (intervalNanos == 0) {
+                        intended = System.nanoTime();
+                        if (intended >= deadline) {
+                            break;
+                        }
+                    } else {
+                        LockSupport.parkNanos(intended - System.nanoTime());
+                    }
+                    pick(endpoints, totalWeight, random).call(client, random, intended);
+                    intended += intervalNanos;
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS));
+        return (System.nanoTime() - start) / 1_000_000_000.0;
+    }
+
+    private static Endpoint pick(List<Endpoint> endpoints, int totalWeight, ThreadLocalRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            roll -= endpoint.weight();
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("Weights do not add up to " + totalWeight);
+    }
+
+    private long randomEmployeeId(ThreadLocalRandom random) {
+        return minEmployeeId + random.nextInt(EMPLOYEE_COUNT);
+    }
+
+    private long randomDepartmentId(ThreadLocalRandom random) {
+        return minDepartmentId + random.nextInt(DEPARTMENT_COUNT);
+    }
+
+    private String employeeJson(ThreadLocalRandom random) {
+        return """
+                {"firstName":"Load","lastName":"Last%d","position":"Tester","salary":"1500.00","department":{"id":%d}}
+                """.formatted(random.nextInt(LAST_NAME_COUNT), randomDepartmentId(random));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest send(String method, String path, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record Endpoint(String name, int weight, long p99SloMs, Function<ThreadLocalRandom, HttpRequest> request,
+                            ConcurrentHistogram latencies, LongAdder rejected, LongAdder errors) {
+
+        Endpoint(String name, int weight, long p99SloMs, Function<ThreadLocalRandom, HttpRequest> request) {
+            this(name, weight, p99SloMs, request, new ConcurrentHistogram(3), new LongAdder(), new LongAdder());
+        }
+
+        void call(HttpClient client, ThreadLocalRandom random, long intendedStart) {
+            HttpRequest httpRequest = request.apply(random);
+            try {
+                int status = client.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 503) {
+                    rejected.increment();
+                } else if (status >= 200 && status < 300) {
+                    latencies.recordValue((System.nanoTime() - intendedStart) / 1_000);
+                } else {
+                    errors.increment();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors.increment();
+            } catch (Exception e) {
+                errors.increment();
+            }
+        }
+
+        void reset() {
+            latencies.reset();
+            rejected.reset();
+            errors.reset();
+        }
+    }
+}
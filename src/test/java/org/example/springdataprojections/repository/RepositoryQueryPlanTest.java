@@ -0,0 +1,143 @@
+package org.example.springdataprojections.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Captures the SQL Hibernate generates for each repository query, runs EXPLAIN on it against a seeded
+ * PostgreSQL schema created by the Flyway migrations, and fails when the planner falls back to a sequential scan.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.example.springdataprojections.repository.RepositoryQueryPlanTest$CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryPlanTest {
+
+    private static final int DEPARTMENT_COUNT = 10_000;
+    private static final int EMPLOYEE_COUNT = 200_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate seedTransaction = new TransactionTemplate(transactionManager);
+        seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        seedTransaction.executeWithoutResult(status -> seedOnce());
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    private void seedOnce() {
+        if (jdbcTemplate.queryForObject("SELECT count(*) FROM employee", Long.class) > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO department (name) SELECT 'Department ' || i FROM generate_series(1, ?) i",
+                DEPARTMENT_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO employee (first_name, last_name, position, salary, departament_id)
+                SELECT 'First' || i, 'Last' || (i % 20000), 'Developer', (1000 + i % 500) || '.00',
+                       (SELECT min(id) FROM department) + i % ?
+                FROM generate_series(1, ?) i
+                """, DEPARTMENT_COUNT, EMPLOYEE_COUNT);
+        jdbcTemplate.execute("ANALYZE department");
+        jdbcTemplate.execute("ANALYZE employee");
+    }
+
+    @Test
+    void findByLastName_ShouldUseIndex() {
+        assertFalse(employeeRepository.findByLastName("Last42").isEmpty());
+
+        assertNoSequentialScan(lastSelect(), "'Last42'");
+    }
+
+    @Test
+    void findEmployeeById_ShouldUseIndex() {
+        Long id = jdbcTemplate.queryForObject("SELECT min(id) + 4242 FROM employee", Long.class);
+        assertTrue(employeeRepository.findById(id).isPresent());
+
+        assertNoSequentialScan(lastSelect(), String.valueOf(id));
+    }
+
+    @Test
+    void findDepartmentById_ShouldUseIndex() {
+        Integer id = jdbcTemplate.queryForObject("SELECT CAST(min(id) + 4242 AS INTEGER) FROM department", Integer.class);
+        assertTrue(departmentRepository.findById(id).isPresent());
+
+        assertNoSequentialScan(lastSelect(), String.valueOf(id));
+    }
+
+    private String lastSelect() {
+        List<String> selects = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                .toList();
+        assertFalse(selects.isEmpty(), "Hibernate issued no select");
+        return selects.get(selects.size() - 1);
+    }
+
+    /**
+     * Prepares the captured statement so its parameters keep their inferred types, then explains an execution
+     * with the given literal arguments.
+     */
+    private void assertNoSequentialScan(String sql, String... arguments) {
+        StringBuilder prepared = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                prepared.append('$').append(++parameter);
+            } else {
+                prepared.append(c);
+            }
+        }
+        assertEquals(arguments.length, parameter, () -> "Unexpected parameter count in: " + sql);
+
+        jdbcTemplate.execute("PREPARE plan_check AS " + prepared);
+        try {
+            List<String> plan = jdbcTemplate.queryForList(
+                    "EXPLAIN EXECUTE plan_check(" + String.join(", ", arguments) + ")", String.class);
+            String joined = String.join("\n", plan);
+            assertFalse(joined.contains("Seq Scan"), () -> "Sequential scan in plan for:\n" + sql + "\n" + joined);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE plan_check");
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.springdataprojections.service;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.example.springdataprojections.model.ChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs against a real server because only a real socket can stop draining: the slow clients connect with a tiny
+ * receive buffer and never read, so their sends block once the backlog fills the socket buffers. The live event
+ * has to reach the reading client well before the 5s write timeout frees the blocked threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:changefeed;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        "server.tomcat.connection-timeout=5s"
+})
+class ChangeFeedServiceTest {
+
+    private static final long BACKLOG = 4_000;
+    private static final int SLOW_CLIENTS = 3;
+    private static final TextNode LARGE_PAYLOAD = TextNode.valueOf("x".repeat(8_000));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @MockBean
+    private ChangeLogService changeLogService;
+
+    private final AtomicLong lastSequence = new AtomicLong(BACKLOG);
+    private final AtomicLong lastQueryNanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        when(changeLogService.getChangesSince(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long since = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            lastQueryNanos.set(System.nanoTime());
+            return LongStream.rangeClosed(since + 1, Math.min(since + limit, lastSequence.get()))
+                    .mapToObj(ChangeFeedServiceTest::event)
+                    .toList();
+        });
+    }
+
+    @Test
+    void onChange_WhenSubscribersStopReading_ShouldKeepDeliveringToOthersAndDropThem() throws Exception {
+        List<Socket> slowClients = new ArrayList<>();
+        try {
+            for (int i = 0; i < SLOW_CLIENTS; i++) {
+                slowClients.add(openWithoutReading());
+            }
+            await(() -> changeFeedService.getSubscriberCount() == SLOW_CLIENTS
+                    && System.nanoTime() - lastQueryNanos.get() > 500_000_000L);
+
+            BlockingQueue<String> received = new LinkedBlockingQueue<>();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/changes/stream"))
+                    .header("Accept", "text/event-stream")
+                    .header("Last-Event-ID", String.valueOf(BACKLOG))
+                    .GET()
+                    .build();
+            HttpClient.newHttpClient().sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                    .thenAccept(response -> response.body().forEach(received::add));
+            await(() -> changeFeedService.getSubscriberCount() == SLOW_CLIENTS + 1);
+
+            lastSequence.incrementAndGet();
+            changeFeedService.onChange(event(BACKLOG + 1));
+
+            assertEquals("id:" + (BACKLOG + 1), pollId(received));
+            await(() -> changeFeedService.getSubscriberCount() == 1);
+        } finally {
+            for (Socket slowClient : slowClients) {
+                slowClient.close();
+            }
+        }
+    }
+
+    private Socket openWithoutReading() throws IOException {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(1024);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream out = socket.getOutputStream();
+        out.write("GET /api/changes/stream HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n"
+                .getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private static ChangeEvent event(long sequence) {
+        return new ChangeEvent(sequence, "Employee", sequence, ChangeLogService.CREATE,
+                sequence <= BACKLOG ? LARGE_PAYLOAD : null);
+    }
+
+    private static String pollId(BlockingQueue<String> received) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            String line = received.poll(100, TimeUnit.MILLISECONDS);
+            if (line != null && line.startsWith("id:")) {
+                return line;
+            }
+        }
+        return fail("Timed out waiting for an event, received " + List.copyOf(received));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for condition");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
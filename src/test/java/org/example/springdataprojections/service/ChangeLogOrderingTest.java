@@ -0,0 +1,81 @@
+package org.example.springdataprojections.service;
+
+import org.example.springdataprojections.model.ChangeEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two overlapping write transactions against a real database: the second one must not be able to commit a
+ * later sequence while the first is still open, otherwise a consumer following the cursor would skip it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:changelog;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class ChangeLogOrderingTest {
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void record_WhenTransactionsOverlap_ShouldNotLetConsumerSkipAnEntry() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<ChangeEvent> existing = changeLogService.getChangesSince(0L, Integer.MAX_VALUE);
+        long cursor = existing.isEmpty() ? 0 : existing.get(existing.size() - 1).sequence();
+
+        CountDownLatch firstRecorded = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = writers.submit(() -> transaction.executeWithoutResult(status -> {
+                changeLogService.record(ChangeLogService.CREATE, "Employee", 1L, null);
+                firstRecorded.countDown();
+                try {
+                    releaseFirst.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }));
+            assertTrue(firstRecorded.await(10, TimeUnit.SECONDS));
+
+            Future<?> second = writers.submit(() -> transaction.executeWithoutResult(status ->
+                    changeLogService.record(ChangeLogService.CREATE, "Employee", 2L, null)));
+            Thread.sleep(500);
+
+            assertFalse(second.isDone());
+            assertTrue(changeLogService.getChangesSince(cursor, 100).isEmpty());
+
+            releaseFirst.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            releaseFirst.countDown();
+            writers.shutdownNow();
+        }
+
+        List<ChangeEvent> changes = changeLogService.getChangesSince(cursor, 100);
+        assertEquals(List.of(cursor + 1, cursor + 2), changes.stream().map(ChangeEvent::sequence).toList());
+        assertEquals(List.of(1L, 2L), changes.stream().map(ChangeEvent::entityId).toList());
+    }
+}
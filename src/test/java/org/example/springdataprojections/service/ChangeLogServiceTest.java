@@ -0,0 +1,100 @@
+package org.example.springdataprojections.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springdataprojections.model.ChangeEvent;
+import org.example.springdataprojections.model.ChangeLogCounter;
+import org.example.springdataprojections.model.ChangeLogEntry;
+import org.example.springdataprojections.model.Department;
+import org.example.springdataprojections.repository.ChangeLogCounterRepository;
+import org.example.springdataprojections.repository.ChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeLogServiceTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private ChangeLogCounterRepository changeLogCounterRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ChangeLogService changeLogService;
+
+    @Test
+    void record_ShouldTakeNextSequenceAndPublishEvent() {
+        ChangeLogCounter counter = new ChangeLogCounter(1, 6L);
+        when(changeLogCounterRepository.findWithLockById(1)).thenReturn(Optional.of(counter));
+
+        changeLogService.record(ChangeLogService.CREATE, "Department", 1L, new Department(1L, "IT Department"));
+
+        ArgumentCaptor<ChangeLogEntry> entry = ArgumentCaptor.forClass(ChangeLogEntry.class);
+        verify(changeLogRepository, times(1)).save(entry.capture());
+        assertEquals(7L, entry.getValue().getSequence());
+        assertTrue(entry.getValue().isNew());
+        assertEquals(7L, counter.getLastSequence());
+        verify(changeLogCounterRepository, times(1)).save(counter);
+        assertEquals("Department", entry.getValue().getEntityType());
+        assertEquals(ChangeLogService.CREATE, entry.getValue().getOperation());
+        assertTrue(entry.getValue().getPayload().contains("IT Department"));
+
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        ChangeEvent published = (ChangeEvent) event.getValue();
+        assertEquals(7L, published.sequence());
+        assertEquals("IT Department", published.payload().get("name").asText());
+    }
+
+    @Test
+    void record_WhenDeleted_ShouldStoreNullPayload() {
+        when(changeLogCounterRepository.findWithLockById(1)).thenReturn(Optional.of(new ChangeLogCounter(1, 0L)));
+
+        changeLogService.record(ChangeLogService.DELETE, "Employee", 1L, null);
+
+        ArgumentCaptor<ChangeLogEntry> entry = ArgumentCaptor.forClass(ChangeLogEntry.class);
+        verify(changeLogRepository, times(1)).save(entry.capture());
+        assertNull(entry.getValue().getPayload());
+    }
+
+    @Test
+    void record_WhenCounterMissing_ShouldThrowException() {
+        when(changeLogCounterRepository.findWithLockById(1)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> changeLogService.record(ChangeLogService.DELETE, "Employee", 1L, null));
+        verifyNoInteractions(changeLogRepository, eventPublisher);
+    }
+
+    @Test
+    void getChangesSince_ShouldReturnEventsWithParsedPayload() {
+        ChangeLogEntry entry = new ChangeLogEntry(8L, "Department", 1L, ChangeLogService.UPDATE, "{\"id\":1,\"name\":\"HR\"}");
+        when(changeLogRepository.findBySequenceGreaterThanOrderBySequenceAsc(7L, Limit.of(100)))
+                .thenReturn(Arrays.asList(entry));
+
+        List<ChangeEvent> changes = changeLogService.getChangesSince(7L, 100);
+
+        assertEquals(1, changes.size());
+        assertEquals(8L, changes.get(0).sequence());
+        assertEquals("HR", changes.get(0).payload().get("name").asText());
+    }
+}
@@ -22,6 +22,9 @@ class DepartmentServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private ChangeLogService changeLogService;
+
     @InjectMocks
     private DepartmentService departmentService;
 
@@ -75,6 +78,7 @@ class DepartmentServiceTest {
         assertNotNull(createdDepartment);
         assertEquals(sampleDepartment, createdDepartment);
         verify(departmentRepository, times(1)).save(sampleDepartment);
+        verify(changeLogService, times(1)).record(ChangeLogService.CREATE, "Department", 1L, sampleDepartment);
     }
 
     @Test
@@ -91,6 +95,7 @@ class DepartmentServiceTest {
         assertEquals("HR Department", updatedDepartment.getName());
         verify(departmentRepository, times(1)).findById(1);
         verify(departmentRepository, times(1)).save(any(Department.class));
+        verify(changeLogService, times(1)).record(ChangeLogService.UPDATE, "Department", 1L, updatedDetails);
     }
 
     @Test
@@ -103,14 +108,27 @@ class DepartmentServiceTest {
         assertThrows(RuntimeException.class, () -> departmentService.updateDepartment(1L, updatedDetails));
         verify(departmentRepository, times(1)).findById(1);
         verify(departmentRepository, never()).save(any(Department.class));
+        verifyNoInteractions(changeLogService);
     }
 
     @Test
     void deleteDepartment_ShouldInvokeDeleteById() {
+        when(departmentRepository.existsById(1)).thenReturn(true);
         doNothing().when(departmentRepository).deleteById(1);
 
         departmentService.deleteDepartment(1L);
 
         verify(departmentRepository, times(1)).deleteById(1);
+        verify(changeLogService, times(1)).record(ChangeLogService.DELETE, "Department", 1L, null);
+    }
+
+    @Test
+    void deleteDepartment_WhenDoesNotExist_ShouldNotRecordChange() {
+        when(departmentRepository.existsById(1)).thenReturn(false);
+
+        departmentService.deleteDepartment(1L);
+
+        verify(departmentRepository, never()).deleteById(anyInt());
+        verifyNoInteractions(changeLogService);
     }
 }
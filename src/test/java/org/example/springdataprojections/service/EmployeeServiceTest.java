@@ -28,6 +28,9 @@ class EmployeeServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private ChangeLogService changeLogService;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -81,6 +84,7 @@ class EmployeeServiceTest {
         assertNotNull(createdEmployee);
         assertEquals(sampleEmployee, createdEmployee);
         verify(employeeRepository, times(1)).save(sampleEmployee);
+        verify(changeLogService, times(1)).record(ChangeLogService.CREATE, "Employee", 1L, sampleEmployee);
     }
 
     @Test
@@ -97,6 +101,7 @@ class EmployeeServiceTest {
         assertEquals("Jane", updatedEmployee.getFirstName());
         verify(employeeRepository, times(1)).findById(1L);
         verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(changeLogService, times(1)).record(ChangeLogService.UPDATE, "Employee", 1L, updatedDetails);
     }
 
     @Test
@@ -109,15 +114,28 @@ class EmployeeServiceTest {
         assertThrows(RuntimeException.class, () -> employeeService.updateEmployee(1L, updatedDetails));
         verify(employeeRepository, times(1)).findById(1L);
         verify(employeeRepository, never()).save(any(Employee.class));
+        verifyNoInteractions(changeLogService);
     }
 
     @Test
     void deleteEmployee_ShouldInvokeDeleteById() {
+        when(employeeRepository.existsById(1L)).thenReturn(true);
         doNothing().when(employeeRepository).deleteById(1L);
 
         employeeService.deleteEmployee(1L);
 
         verify(employeeRepository, times(1)).deleteById(1L);
+        verify(changeLogService, times(1)).record(ChangeLogService.DELETE, "Employee", 1L, null);
+    }
+
+    @Test
+    void deleteEmployee_WhenDoesNotExist_ShouldNotRecordChange() {
+        when(employeeRepository.existsById(1L)).thenReturn(false);
+
+        employeeService.deleteEmployee(1L);
+
+        verify(employeeRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(changeLogService);
     }
 
     @Test